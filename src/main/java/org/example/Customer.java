@@ -1,21 +1,31 @@
 package org.example;
 
 
-public class Customer implements Runnable {
+public class Customer implements Runnable, SimulatedActor {
     private final TicketPool ticketPool;           // The shared ticket pool
     private final int retrievalInterval;           // Time interval (ms) between ticket retrievals
     private final String customerName;             // Name of the customer
-    private final DatabaseHandler dbHandler;       // Database handler to save ticket data
+    private final DatabaseHandler dbHandler;       // Database handler to save ticket data, null to skip persistence
+    private final TimeSource timeSource;           // Clock used for sleeping between retrievals
 
     /**
      * Constructor to initialize a Customer object.
 
      */
     public Customer(TicketPool ticketPool, int retrievalInterval, String customerName, DatabaseHandler dbHandler) {
+        this(ticketPool, retrievalInterval, customerName, dbHandler, SystemTimeSource.INSTANCE);
+    }
+
+    /**
+     * Constructor to initialize a Customer object running against the given clock.
+     */
+    public Customer(TicketPool ticketPool, int retrievalInterval, String customerName, DatabaseHandler dbHandler,
+                    TimeSource timeSource) {
         this.ticketPool = ticketPool;
         this.retrievalInterval = retrievalInterval;
         this.customerName = customerName;
         this.dbHandler = dbHandler;
+        this.timeSource = timeSource;
     }
 
     public TicketPool getTicketPool() {
@@ -42,15 +52,7 @@ public class Customer implements Runnable {
         try {
             // Customer keeps retrieving tickets while the thread is not interrupted
             while (!Thread.currentThread().isInterrupted()) {
-                // Try to retrieve a ticket from the ticket pool
-                String ticket = ticketPool.retrieveTicket();
-                if (ticket != null) {
-                    dbHandler.saveTicket(ticket, "sold"); // Save the ticket status in the database as "sold"
-                    System.out.println(customerName + " retrieved: " + ticket); // Log the action
-                } else {
-                    System.out.println("No tickets available for " + customerName + "!"); // Log when no tickets are available
-                }
-                Thread.sleep(retrievalInterval); // Wait for the specified interval before attempting to retrieve again
+                timeSource.sleep(step()); // Wait for the specified interval before attempting to retrieve again
             }
         } catch (InterruptedException e) {
             // If the thread is interrupted, restore the interrupt status and stop gracefully
@@ -61,4 +63,26 @@ public class Customer implements Runnable {
             e.printStackTrace(); // Print the stack trace for debugging purposes
         }
     }
+
+    /**
+     * Attempts to retrieve one ticket from the pool.
+     *
+     * @return The retrieval interval, in milliseconds.
+     */
+    @Override
+    public long step() {
+        // Try to retrieve a ticket from the ticket pool
+        String ticket = ticketPool.retrieveTicket(customerName);
+        if (ticket != null) {
+            if (dbHandler != null) {
+                dbHandler.saveTicket(ticket, "sold"); // Save the ticket status in the database as "sold"
+            }
+            if (ticketPool.isVerbose()) {
+                System.out.println(customerName + " retrieved: " + ticket); // Log the action
+            }
+        } else if (ticketPool.isVerbose()) {
+            System.out.println("No tickets available for " + customerName + "!"); // Log when no tickets are available
+        }
+        return retrievalInterval;
+    }
 }
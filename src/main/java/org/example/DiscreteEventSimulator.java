@@ -0,0 +1,85 @@
+package org.example;
+
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * DiscreteEventSimulator drives SimulatedActors on a virtual timeline. Instead of sleeping,
+ * each actor's next step is scheduled as an event; the simulator jumps straight to the
+ * earliest pending event, so simulated hours pass in milliseconds of real time.
+ *
+ * Runs are single-threaded and fully determined by the seed of the supplied Random.
+ */
+public class DiscreteEventSimulator {
+    private final VirtualTimeSource clock;              // Virtual clock shared with the actors
+    private final Random random;                        // Seeded source of scheduling jitter
+    private final double jitter;                        // Max fractional deviation applied to each delay
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private long sequence;                              // Tie-breaker keeping equal-time events in FIFO order
+
+    /**
+     * A pending actor step. Events at the same time run in the order they were scheduled.
+     */
+    private record Event(long time, long sequence, SimulatedActor actor) implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Constructor to initialize the simulator.
+     *
+     * @param clock  The virtual clock the actors were created with.
+     * @param random The seeded random source used for jitter.
+     * @param jitter The maximum fractional deviation applied to each delay (0 disables jitter).
+     */
+    public DiscreteEventSimulator(VirtualTimeSource clock, Random random, double jitter) {
+        this.clock = clock;
+        this.random = random;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Schedules an actor's first step after the given delay.
+     *
+     * @param actor The actor to schedule.
+     * @param delay The delay from the current virtual time, in milliseconds.
+     */
+    public void schedule(SimulatedActor actor, long delay) {
+        events.add(new Event(clock.currentTimeMillis() + delay, sequence++, actor));
+    }
+
+    /**
+     * Processes events in time order until the virtual clock would pass the given time.
+     *
+     * @param endMillis The virtual time at which to stop.
+     * @return The number of events processed.
+     */
+    public long runUntil(long endMillis) {
+        long processed = 0;
+        while (!events.isEmpty() && events.peek().time() <= endMillis) {
+            Event event = events.poll();
+            clock.advanceTo(event.time());
+            long delay = event.actor().step();
+            schedule(event.actor(), applyJitter(delay));
+            processed++;
+        }
+        clock.advanceTo(Math.max(clock.currentTimeMillis(), endMillis));
+        return processed;
+    }
+
+    /**
+     * Applies jitter to a step delay. The result is at least 1 ms, so an actor returning a
+     * zero or negative delay cannot keep the clock at the same instant forever.
+     */
+    private long applyJitter(long delay) {
+        if (jitter > 0) {
+            double factor = 1.0 + jitter * (2.0 * random.nextDouble() - 1.0);
+            delay = Math.round(delay * factor);
+        }
+        return Math.max(1L, delay); // Always move time forward
+    }
+}
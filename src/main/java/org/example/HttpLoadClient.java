@@ -0,0 +1,158 @@
+package org.example;
+
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HttpLoadClient drives the local HTTP API with concurrent purchase requests and
+ * reports throughput (requests/sec) and latency percentiles.
+ */
+public class HttpLoadClient {
+    private static final long TIMEOUT_MINUTES = 10; // Overall deadline for the whole load test
+
+    private final int port;             // Port of the local HTTP API
+    private final int totalRequests;    // Number of purchase requests to send
+    private final int concurrency;      // Number of concurrent virtual-thread workers
+
+    /**
+     * Constructor to initialize a load client.
+     *
+     * @param port          The localhost port the API is listening on.
+     * @param totalRequests The total number of purchase requests to send.
+     * @param concurrency   The number of requests kept in flight at once.
+     */
+    public HttpLoadClient(int port, int totalRequests, int concurrency) {
+        this.port = port;
+        this.totalRequests = totalRequests;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Runs the load test and prints a summary to the console.
+     */
+    public void run() {
+        long[] latencies = new long[totalRequests]; // Per-request latency, -1 unless a 2xx/409 response arrived
+        Arrays.fill(latencies, -1L);
+        AtomicInteger next = new AtomicInteger();
+        LongAdder sold = new LongAdder();
+        LongAdder soldOut = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicBoolean stopping = new AtomicBoolean(); // Set when the run is cut short
+
+        // The client uses its own default executor, independent of the worker lifecycle
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newHttpClient()) {
+
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                int workerId = w;
+                futures.add(workers.submit(() -> {
+                    int i;
+                    while (!stopping.get() && (i = next.getAndIncrement()) < totalRequests) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                        URI.create("http://localhost:" + port + "/purchase?customer=load-" + workerId))
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            if (response.statusCode() == 200) {
+                                sold.increment();
+                            } else if (response.statusCode() == 409) {
+                                soldOut.increment();
+                            } else {
+                                failed.increment();
+                                continue;
+                            }
+                            latencies[i] = System.nanoTime() - sent;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            failed.increment();
+                        }
+                    }
+                }));
+            }
+            // One deadline for the whole run; stop early on timeout, failure or interrupt
+            long deadline = start + TimeUnit.MINUTES.toNanos(TIMEOUT_MINUTES);
+            String stoppedBecause = null;
+            try {
+                for (Future<?> future : futures) {
+                    future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } catch (TimeoutException e) {
+                stoppedBecause = "did not finish within " + TIMEOUT_MINUTES + " minutes";
+            } catch (ExecutionException e) {
+                stoppedBecause = "failed: " + e.getCause();
+            } catch (InterruptedException e) {
+                stoppedBecause = "was interrupted";
+                Thread.currentThread().interrupt(); // Restore interrupt status
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (stoppedBecause != null) {
+                // Cancel outstanding requests so leaving this block does not wait for them
+                stopping.set(true);
+                futures.forEach(future -> future.cancel(true));
+                workers.shutdownNow();
+                client.shutdownNow();
+                awaitQuietly(workers);
+                System.err.println("Load test " + stoppedBecause + "; showing partial results.");
+            }
+            printSummary(latencies, elapsed, sold.sum(), soldOut.sum(), failed.sum());
+        }
+    }
+
+    /**
+     * Gives cancelled workers a moment to stop before their counters are read.
+     */
+    private static void awaitQuietly(ExecutorService workers) {
+        try {
+            workers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Restore interrupt status
+        }
+    }
+
+    private void printSummary(long[] latencies, long elapsedNanos, long sold, long soldOut, long failed) {
+        // Only completed purchases (sold or sold out) count towards throughput and latency
+        long[] completed = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        long notSent = totalRequests - completed.length - failed;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.println("\nLoad test against http://localhost:" + port + "/purchase");
+        System.out.printf("Requests: %d | Concurrency: %d | Duration: %.2f s%n", totalRequests, concurrency, seconds);
+        System.out.println("Sold: " + sold + " | Sold out: " + soldOut + " | Failed: " + failed + " | Not sent: " + notSent);
+        if (completed.length == 0) {
+            System.out.println("No requests completed; throughput and latency not available.");
+            return;
+        }
+        System.out.printf("Throughput: %.0f completed requests/sec%n", completed.length / seconds);
+        System.out.printf("Latency p50: %.2f ms | p99: %.2f ms | max: %.2f ms%n",
+                percentile(completed, 0.50), percentile(completed, 0.99), completed[completed.length - 1] / 1_000_000.0);
+    }
+
+    /**
+     * Returns the given percentile of a sorted latency array, in milliseconds.
+     */
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,134 @@
+package org.example;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * LoadSimulation runs accelerated, reproducible capacity-planning simulations.
+ *
+ * Each replication builds its own quiet TicketPool, vendors and customers on a virtual
+ * clock and is driven by a single-threaded DiscreteEventSimulator. Replications use
+ * consecutive seeds and run in parallel across all cores, so results are identical for
+ * the same seed regardless of scheduling.
+ */
+public class LoadSimulation {
+    private static final double JITTER = 0.1; // Each delay varies by up to +/-10%
+
+    private final int vendorCount;          // Number of simulated vendors
+    private final int customerCount;        // Number of simulated customers
+    private final int ticketsPerRelease;    // Tickets each vendor releases per step
+    private final int releaseInterval;      // Time (ms) between vendor releases
+    private final int retrievalInterval;    // Time (ms) between customer retrievals
+    private final int maxCapacity;          // Ticket pool capacity
+    private final long durationMillis;      // Simulated duration
+    private final long seed;                // Seed of the first replication
+    private final int replications;         // Number of independent runs
+
+    /**
+     * Constructor to initialize a load simulation.
+     */
+    public LoadSimulation(int vendorCount, int customerCount, int ticketsPerRelease, int releaseInterval,
+                          int retrievalInterval, int maxCapacity, long durationMillis, long seed, int replications) {
+        this.vendorCount = vendorCount;
+        this.customerCount = customerCount;
+        this.ticketsPerRelease = ticketsPerRelease;
+        this.releaseInterval = releaseInterval;
+        this.retrievalInterval = retrievalInterval;
+        this.maxCapacity = maxCapacity;
+        this.durationMillis = durationMillis;
+        this.seed = seed;
+        this.replications = replications;
+    }
+
+    /**
+     * The outcome of a single replication.
+     */
+    public record Result(long seed, long events, long released, long sold, long soldOut, int remaining) {
+    }
+
+    /**
+     * Runs all replications in parallel and prints a summary to the console.
+     *
+     * @return The per-replication results, in seed order.
+     */
+    public List<Result> run() {
+        long start = System.nanoTime();
+        List<Result> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < replications; i++) {
+                long replicationSeed = seed + i;
+                futures.add(executor.submit(() -> runReplication(replicationSeed)));
+            }
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            System.err.println("Simulation interrupted: " + e.getMessage());
+            Thread.currentThread().interrupt(); // Restore interrupt status
+        } catch (ExecutionException e) {
+            System.err.println("Simulation failed: " + e.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+        printSummary(results, System.nanoTime() - start);
+        return results;
+    }
+
+    /**
+     * Runs one deterministic replication with the given seed.
+     */
+    Result runReplication(long replicationSeed) {
+        Random random = new Random(replicationSeed);
+        VirtualTimeSource clock = new VirtualTimeSource(0L);
+        TicketPool pool = new TicketPool(maxCapacity, false);
+        DiscreteEventSimulator simulator = new DiscreteEventSimulator(clock, random, JITTER);
+
+        // Stagger start times so actors do not all step at the same instant
+        for (int v = 0; v < vendorCount; v++) {
+            Vendor vendor = new Vendor(pool, ticketsPerRelease, releaseInterval, maxCapacity, "SimVendor-" + v, null, clock);
+            simulator.schedule(vendor, random.nextInt(releaseInterval));
+        }
+        for (int c = 0; c < customerCount; c++) {
+            Customer customer = new Customer(pool, retrievalInterval, "SimCustomer-" + c, null, clock);
+            simulator.schedule(customer, random.nextInt(retrievalInterval));
+        }
+
+        long events = simulator.runUntil(durationMillis);
+        return new Result(replicationSeed, events, pool.getTicketsAdded(), pool.getTicketsRetrieved(),
+                pool.getEmptyRetrievals(), pool.getTicketCount());
+    }
+
+    private void printSummary(List<Result> results, long elapsedNanos) {
+        if (results.isEmpty()) {
+            return;
+        }
+        double simulatedHours = durationMillis / 3_600_000.0;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long totalEvents = 0;
+        long totalSold = 0;
+        long minSold = Long.MAX_VALUE;
+        long maxSold = Long.MIN_VALUE;
+
+        System.out.printf("%nSimulated %.2f h with %d vendor(s) and %d customer(s), %d replication(s)%n",
+                simulatedHours, vendorCount, customerCount, results.size());
+        for (Result result : results) {
+            System.out.printf("Seed %d: %d released | %d sold | %d sold out | %d left in pool%n",
+                    result.seed(), result.released(), result.sold(), result.soldOut(), result.remaining());
+            totalEvents += result.events();
+            totalSold += result.sold();
+            minSold = Math.min(minSold, result.sold());
+            maxSold = Math.max(maxSold, result.sold());
+        }
+        System.out.printf("Sold per run: mean %.1f | min %d | max %d (%.1f tickets/simulated hour)%n",
+                (double) totalSold / results.size(), minSold, maxSold, (double) totalSold / results.size() / simulatedHours);
+        System.out.printf("Wall time: %.2f s | %.0f events/sec%n", seconds, totalEvents / seconds);
+    }
+}
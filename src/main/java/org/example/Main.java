@@ -1,12 +1,16 @@
 package org.example;
 
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 public class Main {
     private static volatile boolean running = true; // Flag to control the main loop execution
     private static Thread ticketingSystemThread;    // Thread to manage the ticketing system
     private static Thread keyListenerThread;       // Thread to listen for user key press
+    private static TicketingHttpServer httpServer; // Local HTTP API, started on demand
+    private static final String DEFAULT_EVENT_DIR = "events"; // Default sale event log directory
 
     public static void main(String[] args) {
         // Initialize scanner for user input
@@ -30,6 +34,12 @@ public class Main {
             System.out.println("2. Add Customer");
             System.out.println("3. Start System(Press any letter key along the enter key to stop)");
             System.out.println("4. Exit");
+            System.out.println("5. Start HTTP API");
+            System.out.println("6. Run HTTP Load Test");
+            System.out.println("7. Start Event Recording");
+            System.out.println("8. Analyse Event Log");
+            System.out.println("9. Run Load Simulation");
+            System.out.println("10. Stop Event Recording");
             System.out.print("Enter your command: ");
 
             if (!running) break; // Ensure the loop terminates if `running` is set to false
@@ -65,8 +75,83 @@ public class Main {
                     break;
 
                 case 4:
-                    // Exit the program
-                    System.exit(0);
+                    // Exit the program, saving pending work first
+                    stopSystem(manager);
+                    break;
+
+                case 5:
+                    // Expose the ticket pool over a local HTTP/JSON API
+                    if (httpServer == null) {
+                        System.out.print("Enter HTTP port (1-65535): ");
+                        int port = getPositiveInt(scanner);
+                        while (port > 65535) {
+                            System.out.print("Please enter a port between 1 and 65535: ");
+                            port = getPositiveInt(scanner);
+                        }
+                        httpServer = new TicketingHttpServer(manager, port);
+                    }
+                    try {
+                        httpServer.start();
+                    } catch (IOException e) {
+                        Logging.log("Failed to start HTTP API: " + e.getMessage());
+                        httpServer = null;
+                    }
+                    break;
+
+                case 6:
+                    // Measure throughput and latency of the local HTTP API
+                    if (httpServer == null) {
+                        System.out.println("Start the HTTP API first.");
+                        break;
+                    }
+                    System.out.print("Enter number of requests: ");
+                    int totalRequests = getPositiveInt(scanner);
+                    System.out.print("Enter concurrency: ");
+                    int concurrency = getPositiveInt(scanner);
+                    new HttpLoadClient(httpServer.getPort(), totalRequests, concurrency).run();
+                    break;
+
+                case 7:
+                    // Record releases and sales to a binary event log
+                    System.out.print("Enter event log directory (blank for \"" + DEFAULT_EVENT_DIR + "\"): ");
+                    try {
+                        manager.startEventRecording(getEventDirectory(scanner));
+                    } catch (IOException e) {
+                        Logging.log("Failed to start event recording: " + e.getMessage());
+                    }
+                    break;
+
+                case 8:
+                    // Summarise a recorded event log in one sequential pass
+                    System.out.print("Enter event log directory (blank for \"" + DEFAULT_EVENT_DIR + "\"): ");
+                    try {
+                        new SaleEventAnalyzer(getEventDirectory(scanner)).analyze();
+                    } catch (IOException e) {
+                        Logging.log("Failed to analyse event log: " + e.getMessage());
+                    }
+                    break;
+
+                case 9:
+                    // Simulate a sale on a virtual clock, using the same defaults as commands 1 and 2
+                    System.out.print("Enter number of vendors: ");
+                    int simVendors = getPositiveInt(scanner);
+                    System.out.print("Enter number of customers: ");
+                    int simCustomers = getPositiveInt(scanner);
+                    System.out.print("Enter simulated hours: ");
+                    int simHours = getPositiveInt(scanner);
+                    System.out.print("Enter random seed: ");
+                    int simSeed = getPositiveInt(scanner);
+                    System.out.print("Enter number of replications: ");
+                    int simReplications = getPositiveInt(scanner);
+                    new LoadSimulation(simVendors, simCustomers, 5, 2000, 2000, maxTicketCapacity,
+                            simHours * 3_600_000L, simSeed, simReplications).run();
+                    break;
+
+                case 10:
+                    // Close the current recording session and flush it to disk
+                    if (!manager.stopEventRecording()) {
+                        System.out.println("Event recording is not enabled.");
+                    }
                     break;
 
                 default:
@@ -80,12 +165,16 @@ public class Main {
     }
 
     /**
-     * Stops the ticketing system and interrupts any active threads.
+     * Shuts the program down: stops the HTTP API, the ticketing system and any active threads,
+     * then exits. Used by both the Exit command and the key listener.
      *
      * @param manager The TicketingSystemManager instance to stop.
      */
     private static void stopSystem(TicketingSystemManager manager) {
-        manager.stopSystem(); // Gracefully stop vendors and customers
+        if (httpServer != null) {
+            httpServer.stop(); // Stop accepting API requests first
+        }
+        manager.shutdown(); // Stop vendors and customers, flush queued ticket updates and the event log
         running = false;      // Set the running flag to false to exit loops
 
         // Interrupt the ticketing system thread if it's running
@@ -119,6 +208,17 @@ public class Main {
         keyListenerThread.start(); // Start the key listener thread
     }
 
+    /**
+     * Reads an event log directory from the user, falling back to the default when blank.
+     *
+     * @param scanner The scanner instance to read user input.
+     * @return The chosen directory.
+     */
+    private static Path getEventDirectory(Scanner scanner) {
+        String input = scanner.nextLine().trim();
+        return Path.of(input.isEmpty() ? DEFAULT_EVENT_DIR : input);
+    }
+
     /**
      * Utility method to get a positive integer from the user, with error handling.
      *
@@ -0,0 +1,372 @@
+package org.example;
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * SaleEventAnalyzer streams the segments written by SaleEventRecorder in a single
+ * sequential pass and summarises sale throughput, time-in-pool and per-actor activity.
+ *
+ * Memory use does not grow with the length of the log: time-in-pool is kept in a fixed-size
+ * histogram, and only releases not yet matched to a sale (at most the tickets still in the
+ * pool) are held in memory.
+ */
+public class SaleEventAnalyzer {
+    private final Path directory;   // Directory holding the segment files
+
+    private long released;
+    private long sold;
+    private long soldOut;
+    private long firstTimestamp = Long.MAX_VALUE;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long currentSecond = Long.MIN_VALUE;   // Epoch second of the sales being counted
+    private long salesThisSecond;
+    private long peakSalesPerSecond;
+    private final LatencyHistogram timeInPool = new LatencyHistogram();        // Nanoseconds between release and sale
+    private final PendingReleases outstanding = new PendingReleases();         // Ticket id -> release time
+    private final Map<Integer, long[]> salesPerCustomer = new HashMap<>();     // Actor id -> tickets bought
+    private final Map<Integer, long[]> releasesPerVendor = new HashMap<>();    // Actor id -> tickets released
+
+    /**
+     * Constructor to initialize the analyzer for a segment directory.
+     *
+     * @param directory The directory containing the event log segments.
+     */
+    public SaleEventAnalyzer(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Prints a summary of the event log. If the directory holds recording sessions rather
+     * than segments, each session is summarised separately so idle time between sessions
+     * does not dilute the rates.
+     *
+     * @throws IOException If a segment cannot be read or is not a valid event log.
+     */
+    public void analyze() throws IOException {
+        if (Files.exists(SaleEventRecorder.segmentPath(directory, 0))) {
+            analyzeSegments();
+            return;
+        }
+        List<Path> sessions = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> children = Files.list(directory)) {
+                children.filter(Files::isDirectory)
+                        .filter(child -> child.getFileName().toString().startsWith(SaleEventRecorder.SESSION_PREFIX))
+                        .sorted()
+                        .forEach(sessions::add);
+            }
+        }
+        if (sessions.isEmpty()) {
+            System.out.println("No event log segments found in " + directory);
+            return;
+        }
+        for (Path session : sessions) {
+            new SaleEventAnalyzer(session).analyzeSegments();
+        }
+    }
+
+    /**
+     * Reads every segment of one session in order and prints its summary to the console.
+     */
+    private void analyzeSegments() throws IOException {
+        int segments = 0;
+        for (int i = 0; Files.exists(SaleEventRecorder.segmentPath(directory, i)); i++) {
+            readSegment(SaleEventRecorder.segmentPath(directory, i));
+            segments++;
+        }
+        if (segments == 0) {
+            System.out.println("No event log segments found in " + directory);
+            return;
+        }
+        printSummary(segments);
+    }
+
+    private void readSegment(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        int count;
+        int capacity;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < SaleEventRecorder.HEADER_SIZE) {
+                throw new IOException("Corrupt segment (shorter than header): " + file);
+            }
+            ByteBuffer header = ByteBuffer.allocate(SaleEventRecorder.HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Keep reading until the whole header is in
+            }
+            if (header.getInt(SaleEventRecorder.MAGIC_OFFSET) != SaleEventRecorder.MAGIC
+                    || header.getInt(SaleEventRecorder.VERSION_OFFSET) != SaleEventRecorder.VERSION) {
+                throw new IOException("Not a sale event segment: " + file);
+            }
+            count = header.getInt(SaleEventRecorder.COUNT_OFFSET);
+            capacity = header.getInt(SaleEventRecorder.CAPACITY_OFFSET);
+            if (capacity <= 0 || count < 0 || count > capacity
+                    || SaleEventRecorder.segmentSize(capacity) > Math.min(size, Integer.MAX_VALUE)) {
+                throw new IOException("Corrupt segment (count " + count + ", capacity " + capacity
+                        + ", size " + size + "): " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, SaleEventRecorder.segmentSize(capacity));
+        }
+
+        for (int i = 0; i < count; i++) {
+            long timestamp = buffer.getLong(SaleEventRecorder.timestampOffset(i));
+            long ticketId = buffer.getLong(SaleEventRecorder.ticketOffset(capacity, i));
+            int actorId = buffer.getInt(SaleEventRecorder.actorOffset(capacity, i));
+            byte type = buffer.get(SaleEventRecorder.typeOffset(capacity, i));
+            accept(type, ticketId, actorId, timestamp);
+        }
+    }
+
+    private void accept(byte type, long ticketId, int actorId, long timestamp) {
+        firstTimestamp = Math.min(firstTimestamp, timestamp);
+        lastTimestamp = Math.max(lastTimestamp, timestamp);
+
+        switch (type) {
+            case SaleEventRecorder.RELEASED:
+                released++;
+                countForActor(releasesPerVendor, actorId);
+                outstanding.put(ticketId, timestamp);
+                break;
+
+            case SaleEventRecorder.SOLD:
+                sold++;
+                countSale(timestamp);
+                countForActor(salesPerCustomer, actorId);
+                long releasedAt = outstanding.remove(ticketId);
+                if (releasedAt != PendingReleases.MISSING) {
+                    timeInPool.record(timestamp - releasedAt);
+                }
+                break;
+
+            case SaleEventRecorder.SOLD_OUT:
+                soldOut++;
+                break;
+
+            default:
+                // Ignore unknown event types written by newer versions
+        }
+    }
+
+    private void countSale(long timestamp) {
+        long second = timestamp / 1_000_000_000L;
+        if (second != currentSecond) {
+            currentSecond = second;
+            salesThisSecond = 0;
+        }
+        salesThisSecond++;
+        peakSalesPerSecond = Math.max(peakSalesPerSecond, salesThisSecond);
+    }
+
+    private static void countForActor(Map<Integer, long[]> counts, int actorId) {
+        if (actorId != 0) { // 0 marks events recorded without an actor name
+            counts.computeIfAbsent(actorId, id -> new long[1])[0]++;
+        }
+    }
+
+    private void printSummary(int segments) {
+        double seconds = Math.max(lastTimestamp - firstTimestamp, 1) / 1_000_000_000.0;
+        System.out.println("\nEvent log: " + directory + " (" + segments + " segment(s))");
+        System.out.printf("Events: %d released | %d sold | %d sold out | span %.2f s%n",
+                released, sold, soldOut, seconds);
+        System.out.printf("Sale rate: %.2f tickets/sec (peak %d in one second)%n", sold / seconds, peakSalesPerSecond);
+        printActorSummary("Vendors", "releases", releasesPerVendor);
+        printActorSummary("Customers", "purchases", salesPerCustomer);
+
+        if (timeInPool.count() == 0) {
+            System.out.println("Time in pool: no matched release/sale pairs.");
+            return;
+        }
+        System.out.printf("Time in pool: mean %.2f ms | p50 %.2f ms | p99 %.2f ms | max %.2f ms%n",
+                timeInPool.mean() / 1_000_000.0, timeInPool.percentile(0.50) / 1_000_000.0,
+                timeInPool.percentile(0.99) / 1_000_000.0, timeInPool.max() / 1_000_000.0);
+        System.out.println("Unsold tickets still in pool at end of log: " + outstanding.size());
+    }
+
+    private static void printActorSummary(String label, String unit, Map<Integer, long[]> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        long total = 0;
+        for (long[] count : counts.values()) {
+            min = Math.min(min, count[0]);
+            max = Math.max(max, count[0]);
+            total += count[0];
+        }
+        System.out.printf("%s: %d distinct | %s per actor min %d / mean %.1f / max %d%n",
+                label, counts.size(), unit, min, (double) total / counts.size(), max);
+    }
+
+    /**
+     * A fixed-size log-linear histogram of non-negative nanosecond values. Each power of two
+     * is split into 32 buckets, so percentiles are accurate to about 3% whatever the log size.
+     */
+    private static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 5;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private final long[] buckets = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS];
+        private long count;
+        private double sum;
+        private long max;
+
+        void record(long value) {
+            value = Math.max(0, value);
+            buckets[indexOf(value)]++;
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        long count() {
+            return count;
+        }
+
+        double mean() {
+            return sum / count;
+        }
+
+        long max() {
+            return max;
+        }
+
+        /**
+         * Returns the midpoint of the bucket holding the given percentile, capped at the exact maximum.
+         */
+        long percentile(double p) {
+            long rank = Math.max(1, (long) Math.ceil(p * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(max, lowerBound(i) + bucketWidth(i) / 2);
+                }
+            }
+            return max;
+        }
+
+        private static int indexOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        private static long lowerBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        }
+
+        private static long bucketWidth(int index) {
+            if (index < SUB_BUCKETS) {
+                return 1;
+            }
+            return 1L << (index / SUB_BUCKETS - 1);
+        }
+    }
+
+    /**
+     * An open-addressing map from ticket id to release time, storing primitives only.
+     * A repeated ticket id replaces the earlier release, which then counts as unmatched.
+     */
+    private static final class PendingReleases {
+        static final long MISSING = Long.MIN_VALUE;
+        private static final long EMPTY = Long.MIN_VALUE; // Ticket ids are never Long.MIN_VALUE
+        private long[] keys = newTable(64);
+        private long[] values = new long[64];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void put(long key, long value) {
+            if (size * 2 >= keys.length) {
+                resize();
+            }
+            int slot = find(keys, key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        /**
+         * Removes the key and returns its value, or MISSING if it was not present.
+         */
+        long remove(long key) {
+            int slot = find(keys, key);
+            if (keys[slot] == EMPTY) {
+                return MISSING;
+            }
+            long value = values[slot];
+            size--;
+            // Shift later entries of the probe chain back so lookups still find them
+            int mask = keys.length - 1;
+            int hole = slot;
+            for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            return value;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            keys = newTable(oldKeys.length * 2);
+            values = new long[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = find(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int find(long[] table, long key) {
+            int mask = table.length - 1;
+            int slot = hash(key) & mask;
+            while (table[slot] != EMPTY && table[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private static long[] newTable(int length) {
+            long[] table = new long[length];
+            Arrays.fill(table, EMPTY);
+            return table;
+        }
+    }
+}
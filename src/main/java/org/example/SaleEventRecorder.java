@@ -0,0 +1,231 @@
+package org.example;
+
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * SaleEventRecorder appends ticket events to a compact binary log for offline analysis.
+ *
+ * The log is a directory of fixed-size, memory-mapped segment files. Each segment is stored
+ * column by column so a reader can scan one field at a time:
+ *
+ *   header     : magic (int), version (int), record count (int), capacity (int)
+ *   timestamps : capacity x long  - nanoseconds from the recorder's TimeSource (epoch time,
+ *                                   or virtual time for simulations)
+ *   ticket ids : capacity x long  - trailing number of the ticket name, e.g. N in "Ticket-T-N"
+ *   actor ids  : capacity x int   - hash of the vendor/customer name (0 if unknown), used for
+ *                                   per-actor sale and release counts
+ *   event types: capacity x byte  - RELEASED, SOLD or SOLD_OUT
+ */
+public class SaleEventRecorder implements AutoCloseable {
+    static final int MAGIC = 0x54434B45;          // "TCKE"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int COUNT_OFFSET = 8;
+    static final int CAPACITY_OFFSET = 12;
+    static final int DEFAULT_CAPACITY = 1 << 20;  // Records per segment (~21 MB)
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".evt";
+    static final String SESSION_PREFIX = "session-";
+    private static final DateTimeFormatter SESSION_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    public static final byte RELEASED = 0;  // A vendor added a ticket to the pool
+    public static final byte SOLD = 1;      // A customer retrieved a ticket from the pool
+    public static final byte SOLD_OUT = 2;  // A customer found the pool empty
+
+    private final Path directory;        // Directory holding the segment files
+    private final int capacity;          // Records per segment
+    private final TimeSource timeSource; // Clock used to timestamp events
+    private int segmentIndex;            // Index of the segment currently being written
+    private MappedByteBuffer segment;    // Currently mapped segment
+    private int count;                   // Records written to the current segment
+    private boolean closed;
+
+    /**
+     * Creates a recorder writing segments of the default capacity into the given directory.
+     *
+     * @param directory The directory to write segment files to.
+     * @throws IOException If the directory or first segment cannot be created.
+     */
+    public SaleEventRecorder(Path directory) throws IOException {
+        this(directory, DEFAULT_CAPACITY, SystemTimeSource.INSTANCE);
+    }
+
+    /**
+     * Creates a recorder with the default capacity that timestamps events with the given clock,
+     * so simulations driven by a VirtualTimeSource produce virtual-time logs.
+     *
+     * @param directory  The directory to write segment files to.
+     * @param timeSource The clock used to timestamp events.
+     * @throws IOException If the directory or first segment cannot be created.
+     */
+    public SaleEventRecorder(Path directory, TimeSource timeSource) throws IOException {
+        this(directory, DEFAULT_CAPACITY, timeSource);
+    }
+
+    /**
+     * Creates a recorder writing segments of the given capacity into the given directory.
+     * Existing segments are kept; new ones are numbered after them.
+     *
+     * @param directory The directory to write segment files to.
+     * @param capacity  The number of records per segment.
+     * @throws IOException If the directory or first segment cannot be created.
+     */
+    public SaleEventRecorder(Path directory, int capacity) throws IOException {
+        this(directory, capacity, SystemTimeSource.INSTANCE);
+    }
+
+    /**
+     * Creates a recorder writing segments of the given capacity, timestamped with the given clock.
+     *
+     * @param directory  The directory to write segment files to.
+     * @param capacity   The number of records per segment.
+     * @param timeSource The clock used to timestamp events.
+     * @throws IOException If the directory or first segment cannot be created.
+     */
+    public SaleEventRecorder(Path directory, int capacity, TimeSource timeSource) throws IOException {
+        if (capacity <= 0 || segmentSize(capacity) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment capacity: " + capacity);
+        }
+        this.directory = directory;
+        this.capacity = capacity;
+        this.timeSource = timeSource;
+        Files.createDirectories(directory);
+        this.segmentIndex = nextSegmentIndex(directory);
+        openSegment();
+    }
+
+    /**
+     * Records a single event. Safe to call from any thread.
+     *
+     * @param type   The event type (RELEASED, SOLD or SOLD_OUT).
+     * @param ticket The ticket name, or null if no ticket was involved.
+     * @param actor  The vendor or customer name.
+     */
+    public synchronized void record(byte type, String ticket, String actor) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (count == capacity) {
+                segmentIndex++;
+                openSegment();
+            }
+            long timestamp = timeSource.currentTimeNanos();
+            segment.putLong(timestampOffset(count), timestamp);
+            segment.putLong(ticketOffset(capacity, count), ticketId(ticket));
+            segment.putInt(actorOffset(capacity, count), actor == null ? 0 : actor.hashCode());
+            segment.put(typeOffset(capacity, count), type);
+            count++;
+            segment.putInt(COUNT_OFFSET, count); // Publish the record to readers
+        } catch (IOException e) {
+            Logging.log("Error writing sale event segment: " + e.getMessage());
+            closed = true;
+        }
+    }
+
+    /**
+     * Flushes the current segment to disk and stops recording.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segment.force();
+        Logging.log("Sale event log closed: " + directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void openSegment() throws IOException {
+        if (segment != null) {
+            segment.force();
+        }
+        Path file = segmentPath(directory, segmentIndex);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize(capacity));
+        }
+        segment.putInt(MAGIC_OFFSET, MAGIC);
+        segment.putInt(VERSION_OFFSET, VERSION);
+        segment.putInt(COUNT_OFFSET, 0);
+        segment.putInt(CAPACITY_OFFSET, capacity);
+        count = 0;
+    }
+
+    /**
+     * Extracts the trailing number of a ticket name, falling back to a hash for other names.
+     */
+    static long ticketId(String ticket) {
+        if (ticket == null) {
+            return 0L;
+        }
+        int dash = ticket.lastIndexOf('-');
+        try {
+            return Long.parseLong(ticket.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return ticket.hashCode();
+        }
+    }
+
+    /**
+     * Returns a new, not yet existing session directory under the given root, so each
+     * recording session is kept (and analysed) separately.
+     *
+     * @param root The event log root directory.
+     * @return A fresh session directory path, named after the current time.
+     */
+    public static Path newSessionDirectory(Path root) {
+        String base = SESSION_PREFIX + LocalDateTime.now().format(SESSION_FORMATTER);
+        Path session = root.resolve(base);
+        for (int i = 2; Files.exists(session); i++) {
+            session = root.resolve(base + "-" + i);
+        }
+        return session;
+    }
+
+    private static int nextSegmentIndex(Path directory) throws IOException {
+        int next = 0;
+        while (Files.exists(segmentPath(directory, next))) {
+            next++;
+        }
+        return next;
+    }
+
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    static long segmentSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * (Long.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES);
+    }
+
+    static int timestampOffset(int index) {
+        return HEADER_SIZE + index * Long.BYTES;
+    }
+
+    static int ticketOffset(int capacity, int index) {
+        return HEADER_SIZE + capacity * Long.BYTES + index * Long.BYTES;
+    }
+
+    static int actorOffset(int capacity, int index) {
+        return HEADER_SIZE + capacity * 2 * Long.BYTES + index * Integer.BYTES;
+    }
+
+    static int typeOffset(int capacity, int index) {
+        return HEADER_SIZE + capacity * (2 * Long.BYTES + Integer.BYTES) + index;
+    }
+}
@@ -0,0 +1,16 @@
+package org.example;
+
+
+/**
+ * A SimulatedActor performs its work in discrete steps, so it can either run on its own
+ * thread (sleeping between steps) or be driven by a DiscreteEventSimulator.
+ */
+public interface SimulatedActor {
+
+    /**
+     * Performs one round of work.
+     *
+     * @return The delay in milliseconds until the actor's next step.
+     */
+    long step();
+}
@@ -0,0 +1,35 @@
+package org.example;
+
+
+/**
+ * SystemTimeSource is the default TimeSource, backed by the system clock and Thread.sleep.
+ */
+public class SystemTimeSource implements TimeSource {
+    public static final SystemTimeSource INSTANCE = new SystemTimeSource(); // Shared instance
+
+    private final long epochBaseNanos;   // Wall-clock time at startup, in epoch nanoseconds
+    private final long monotonicBase;    // System.nanoTime() at startup
+
+    private SystemTimeSource() {
+        this.epochBaseNanos = System.currentTimeMillis() * 1_000_000L;
+        this.monotonicBase = System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Returns epoch nanoseconds, advanced with System.nanoTime() so it never goes backwards.
+     */
+    @Override
+    public long currentTimeNanos() {
+        return epochBaseNanos + (System.nanoTime() - monotonicBase);
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
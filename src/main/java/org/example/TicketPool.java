@@ -3,6 +3,7 @@ package org.example;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The TicketPool class manages the pool of tickets. It supports adding, retrieving tickets,
@@ -11,6 +12,12 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class TicketPool {
     private final int maxCapacity;               // Maximum capacity of the pool
     private final BlockingQueue<String> tickets; // Blocking queue to hold the tickets
+    private volatile SaleEventRecorder eventRecorder; // Optional binary event log, null when disabled
+    private final boolean verbose;               // Whether pool and actor activity is printed to the console
+    private long ticketsAdded;                   // Tickets successfully added since creation
+    private long ticketsRetrieved;               // Tickets successfully retrieved since creation
+    private long emptyRetrievals;                // Retrieval attempts that found the pool empty
+    private final AtomicLong ticketSequence = new AtomicLong(); // Source of unique ticket numbers
 
     /**
      * Constructor to initialize the ticket pool with a given maximum capacity.
@@ -18,8 +25,20 @@ public class TicketPool {
      * @param maxCapacity The maximum capacity of the ticket pool.
      */
     public TicketPool(int maxCapacity) {
+        this(maxCapacity, true);
+    }
+
+    /**
+     * Constructor to initialize the ticket pool, optionally without console output.
+     * Simulations use a quiet pool so millions of events are not printed.
+     *
+     * @param maxCapacity The maximum capacity of the ticket pool.
+     * @param verbose     Whether pool and actor activity is printed to the console.
+     */
+    public TicketPool(int maxCapacity, boolean verbose) {
         this.maxCapacity = maxCapacity;
         this.tickets = new LinkedBlockingQueue<>(maxCapacity);
+        this.verbose = verbose;
     }
 
     /**
@@ -30,11 +49,39 @@ public class TicketPool {
      * @return True if the ticket was added successfully, false otherwise.
      */
     public synchronized boolean addTicket(String ticket) {
+        return addTicket(ticket, null);
+    }
+
+    /**
+     * Adds a ticket to the pool on behalf of a vendor, recording the release if event
+     * recording is enabled.
+     *
+     * @param ticket The ticket to be added.
+     * @param actor  The name of the releasing vendor.
+     * @return True if the ticket was added successfully, false otherwise.
+     */
+    public synchronized boolean addTicket(String ticket, String actor) {
+        return addTicket(ticket, actor, true);
+    }
+
+    /**
+     * Adds a ticket to the pool on behalf of a vendor, optionally without console output.
+     *
+     * @param ticket The ticket to be added.
+     * @param actor  The name of the releasing vendor.
+     * @param print  Whether to print the addition (only applies to a verbose pool).
+     * @return True if the ticket was added successfully, false otherwise.
+     */
+    public synchronized boolean addTicket(String ticket, String actor, boolean print) {
         try {
             if (tickets.size() < maxCapacity) { // Ensure capacity logic is atomic
                 boolean added = tickets.offer(ticket);
                 if (added) {
-                    System.out.println("Ticket added: " + ticket + " | Current Size: " + tickets.size());
+                    ticketsAdded++;
+                    if (verbose && print) {
+                        System.out.println("Ticket added: " + ticket + " | Current Size: " + tickets.size());
+                    }
+                    recordEvent(SaleEventRecorder.RELEASED, ticket, actor);
                 }
                 return added;
             }
@@ -52,10 +99,39 @@ public class TicketPool {
      * @return The retrieved ticket, or null if no tickets are available.
      */
     public synchronized String retrieveTicket() {
+        return retrieveTicket(null);
+    }
+
+    /**
+     * Retrieves a ticket from the pool on behalf of a customer, recording the sale (or the
+     * empty pool) if event recording is enabled.
+     *
+     * @param actor The name of the buying customer.
+     * @return The retrieved ticket, or null if no tickets are available.
+     */
+    public synchronized String retrieveTicket(String actor) {
+        return retrieveTicket(actor, true);
+    }
+
+    /**
+     * Retrieves a ticket from the pool on behalf of a customer, optionally without console output.
+     *
+     * @param actor The name of the buying customer.
+     * @param print Whether to print the retrieval (only applies to a verbose pool).
+     * @return The retrieved ticket, or null if no tickets are available.
+     */
+    public synchronized String retrieveTicket(String actor, boolean print) {
         try {
             String ticket = tickets.poll();
             if (ticket != null) {
-                System.out.println("Ticket retrieved: " + ticket + " | Current Size: " + tickets.size());
+                ticketsRetrieved++;
+                if (verbose && print) {
+                    System.out.println("Ticket retrieved: " + ticket + " | Current Size: " + tickets.size());
+                }
+                recordEvent(SaleEventRecorder.SOLD, ticket, actor);
+            } else {
+                emptyRetrievals++;
+                recordEvent(SaleEventRecorder.SOLD_OUT, null, actor);
             }
             return ticket;
         } catch (Exception e) {
@@ -86,4 +162,46 @@ public class TicketPool {
     public int getMaxCapacity() {
         return maxCapacity;
     }
+
+    /**
+     * Returns the next ticket number for this pool. Ticket names end with this number, so they
+     * stay unique even when many tickets are created in the same (real or virtual) millisecond.
+     *
+     * @return A number not returned before by this pool.
+     */
+    public long nextTicketNumber() {
+        return ticketSequence.incrementAndGet();
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public synchronized long getTicketsAdded() {
+        return ticketsAdded;
+    }
+
+    public synchronized long getTicketsRetrieved() {
+        return ticketsRetrieved;
+    }
+
+    public synchronized long getEmptyRetrievals() {
+        return emptyRetrievals;
+    }
+
+    /**
+     * Enables or disables the binary sale event log.
+     *
+     * @param eventRecorder The recorder to write events to, or null to disable recording.
+     */
+    public void setEventRecorder(SaleEventRecorder eventRecorder) {
+        this.eventRecorder = eventRecorder;
+    }
+
+    private void recordEvent(byte type, String ticket, String actor) {
+        SaleEventRecorder recorder = eventRecorder;
+        if (recorder != null) {
+            recorder.record(type, ticket, actor);
+        }
+    }
 }
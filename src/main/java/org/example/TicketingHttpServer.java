@@ -0,0 +1,215 @@
+package org.example;
+
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TicketingHttpServer exposes the shared ticket pool over a small local HTTP/JSON API,
+ * so external clients can buy and release tickets alongside the CLI-driven threads.
+ *
+ * Endpoints:
+ *   POST /purchase?customer=NAME          - buys one ticket
+ *   POST /release?vendor=NAME&count=N     - releases N tickets into the pool
+ *   GET  /status                          - current pool size and capacity
+ *   GET  /metrics                         - request and sale counters
+ */
+public class TicketingHttpServer {
+    private final TicketingSystemManager manager;   // Manager owning the shared ticket pool
+    private final int port;                         // Port to listen on (localhost only)
+    private HttpServer server;                      // Underlying JDK HTTP server
+    private ExecutorService executor;               // One virtual thread per request
+
+    private final LongAdder purchaseRequests = new LongAdder();
+    private final LongAdder ticketsSold = new LongAdder();
+    private final LongAdder soldOutResponses = new LongAdder();
+    private final LongAdder releaseRequests = new LongAdder();
+    private final LongAdder ticketsReleased = new LongAdder();
+    private final LongAdder errorResponses = new LongAdder();
+    private final LongAdder purchaseNanos = new LongAdder(); // Total time spent serving purchases
+
+    /**
+     * Constructor to initialize the server for a given manager and port.
+     *
+     * @param manager The TicketingSystemManager whose pool is exposed.
+     * @param port    The localhost port to bind to.
+     */
+    public TicketingHttpServer(TicketingSystemManager manager, int port) {
+        this.manager = manager;
+        this.port = port;
+    }
+
+    /**
+     * Binds the server to localhost and starts accepting requests.
+     *
+     * @throws IOException If the port cannot be bound.
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            System.out.println("HTTP API is already running on port " + port + ".");
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+
+        server.createContext("/purchase", this::handlePurchase);
+        server.createContext("/release", this::handleRelease);
+        server.createContext("/status", this::handleStatus);
+        server.createContext("/metrics", this::handleMetrics);
+
+        server.start();
+        Logging.log("HTTP API started on http://localhost:" + port);
+    }
+
+    /**
+     * Stops the server, giving in-flight requests a second to complete.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(1);
+        executor.shutdown();
+        server = null;
+        Logging.log("HTTP API stopped.");
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    private void handlePurchase(HttpExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "POST")) return;
+        long start = System.nanoTime();
+        purchaseRequests.increment();
+
+        String customer = parseQuery(exchange).getOrDefault("customer", "api-customer");
+        String ticket = manager.purchaseTicket(customer);
+        if (ticket != null) {
+            ticketsSold.increment();
+            sendJson(exchange, 200, "{\"ticket\":\"" + escape(ticket) + "\",\"customer\":\"" + escape(customer) + "\"}");
+        } else {
+            soldOutResponses.increment();
+            sendJson(exchange, 409, "{\"error\":\"No tickets available\"}");
+        }
+        purchaseNanos.add(System.nanoTime() - start);
+    }
+
+    private void handleRelease(HttpExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "POST")) return;
+        releaseRequests.increment();
+
+        Map<String, String> params = parseQuery(exchange);
+        String vendor = params.getOrDefault("vendor", "api-vendor");
+        int count;
+        try {
+            count = Integer.parseInt(params.getOrDefault("count", "1"));
+        } catch (NumberFormatException e) {
+            count = -1;
+        }
+        if (count <= 0) {
+            errorResponses.increment();
+            sendJson(exchange, 400, "{\"error\":\"count must be a positive integer\"}");
+            return;
+        }
+
+        int released = manager.releaseTickets(vendor, count);
+        ticketsReleased.add(released);
+        sendJson(exchange, 200, "{\"vendor\":\"" + escape(vendor) + "\",\"released\":" + released + "}");
+    }
+
+    private void handleStatus(HttpExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "GET")) return;
+        TicketPool pool = manager.getTicketPool();
+        sendJson(exchange, 200, "{\"available\":" + pool.getTicketCount()
+                + ",\"maxCapacity\":" + pool.getMaxCapacity()
+                + ",\"running\":" + manager.isRunning() + "}");
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        if (!requireMethod(exchange, "GET")) return;
+        long purchases = purchaseRequests.sum();
+        double meanMicros = purchases == 0 ? 0.0 : purchaseNanos.sum() / 1000.0 / purchases;
+        sendJson(exchange, 200, "{\"purchaseRequests\":" + purchases
+                + ",\"ticketsSold\":" + ticketsSold.sum()
+                + ",\"soldOut\":" + soldOutResponses.sum()
+                + ",\"releaseRequests\":" + releaseRequests.sum()
+                + ",\"ticketsReleased\":" + ticketsReleased.sum()
+                + ",\"errors\":" + errorResponses.sum()
+                + ",\"meanPurchaseMicros\":" + String.format("%.1f", meanMicros) + "}");
+    }
+
+    /**
+     * Rejects the request with 405 if it does not use the expected method.
+     *
+     * @return True if the request may proceed.
+     */
+    private boolean requireMethod(HttpExchange exchange, String method) throws IOException {
+        if (method.equalsIgnoreCase(exchange.getRequestMethod())) {
+            return true;
+        }
+        errorResponses.increment();
+        exchange.getResponseHeaders().set("Allow", method);
+        sendJson(exchange, 405, "{\"error\":\"Use " + method + "\"}");
+        return false;
+    }
+
+    /**
+     * Parses the URL query string into a simple key/value map.
+     */
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                String key = URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8);
+                String value = URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+                params.put(key, value);
+            }
+        }
+        return params;
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    /**
+     * Escapes a value for use inside a JSON string, including control characters.
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,17 +1,22 @@
 package org.example;
 
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.*;
 
 public class TicketingSystemManager {
+    private static final int PERSISTENCE_QUEUE_CAPACITY = 1000; // Pending API ticket updates before callers write themselves
     private final TicketPool ticketPool;
     private final DatabaseHandler dbHandler;
     private final ExecutorService vendorExecutor; // Executor for vendor threads
     private final ExecutorService customerExecutor; // Executor for customer threads
+    private final ExecutorService persistenceExecutor; // Single writer for API-driven ticket updates
     private volatile boolean isRunning;
     private final List<Runnable> activeVendors;
     private final List<Runnable> activeCustomers;
+    private SaleEventRecorder eventRecorder; // Binary sale event log, null until recording starts
 
     // Constructor to initialize the manager with max ticket capacity
     public TicketingSystemManager(int maxTicketCapacity) {
@@ -19,6 +24,9 @@ public class TicketingSystemManager {
         this.dbHandler = new DatabaseHandler();
         this.vendorExecutor = Executors.newFixedThreadPool(30);
         this.customerExecutor = Executors.newFixedThreadPool(30);
+        // Bounded queue: when the writer falls behind, the request thread saves the ticket itself
+        this.persistenceExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PERSISTENCE_QUEUE_CAPACITY), new ThreadPoolExecutor.CallerRunsPolicy());
         this.isRunning = false;
         this.activeVendors = new CopyOnWriteArrayList<>();
         this.activeCustomers = new CopyOnWriteArrayList<>();
@@ -60,12 +68,25 @@ public class TicketingSystemManager {
         }
         isRunning = false;
         stopAllThreads();
+        stopEventRecording();
 
         // Stop all active vendors and customers
         activeVendors.clear();
         activeCustomers.clear();
     }
 
+    /**
+     * Shuts the manager down for good: stops vendors and customers if the system is running,
+     * writes any queued ticket updates to the database, and closes the event log.
+     */
+    public void shutdown() {
+        if (isRunning) {
+            stopSystem();
+        }
+        drainPersistence();
+        stopEventRecording();
+    }
+
     /**
      * Dynamically fetch and add a vendor from the database to the system.
      *
@@ -90,6 +111,102 @@ public class TicketingSystemManager {
         System.out.println("Customer added: " + customerName);
     }
 
+    /**
+     * Sells a ticket to an external client without waiting on the pool or the database.
+     * The ticket is taken from the pool immediately and the "sold" status is persisted
+     * in the background. Nothing is printed per request, so load tests measure the purchase
+     * path rather than console output; use the API's /metrics or the event log instead.
+     *
+     * @param customerName The name of the buyer.
+     * @return The purchased ticket, or null if the pool is empty.
+     */
+    public String purchaseTicket(String customerName) {
+        String ticket = ticketPool.retrieveTicket(customerName, false); // Non-blocking poll, no console output
+        if (ticket != null) {
+            persistAsync(ticket, "sold");
+        }
+        return ticket;
+    }
+
+    /**
+     * Releases tickets into the pool on behalf of an external vendor.
+     * Stops early if the pool reaches its maximum capacity. Like purchases, releases are not
+     * printed to the console.
+     *
+     * @param vendorName The name of the releasing vendor.
+     * @param count      The number of tickets to release.
+     * @return The number of tickets actually added to the pool.
+     */
+    public int releaseTickets(String vendorName, int count) {
+        int released = 0;
+        for (int i = 0; i < count; i++) {
+            // Same naming scheme as Vendor; the pool's sequence keeps names unique within a batch
+            String ticketName = "Ticket-" + System.currentTimeMillis() + "-" + ticketPool.nextTicketNumber();
+            if (!ticketPool.addTicket(ticketName, vendorName, false)) {
+                break; // Pool is full
+            }
+            persistAsync(ticketName, "available");
+            released++;
+        }
+        return released;
+    }
+
+    /**
+     * Starts recording ticket releases and sales to a binary event log.
+     * Each recording session gets its own directory under the given root.
+     *
+     * @param directory The root directory of the event log.
+     * @throws IOException If the event log cannot be created.
+     */
+    public synchronized void startEventRecording(Path directory) throws IOException {
+        if (eventRecorder != null) {
+            System.out.println("Event recording is already enabled: " + eventRecorder.getDirectory());
+            return;
+        }
+        Path session = SaleEventRecorder.newSessionDirectory(directory);
+        eventRecorder = new SaleEventRecorder(session);
+        ticketPool.setEventRecorder(eventRecorder);
+        Logging.log("Sale event recording started: " + session);
+    }
+
+    /**
+     * Stops recording and flushes the event log to disk.
+     *
+     * @return True if a recording session was stopped, false if none was active.
+     */
+    public synchronized boolean stopEventRecording() {
+        if (eventRecorder == null) {
+            return false;
+        }
+        ticketPool.setEventRecorder(null);
+        eventRecorder.close();
+        eventRecorder = null;
+        return true;
+    }
+
+    public TicketPool getTicketPool() {
+        return ticketPool;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Queues a ticket status update so request threads never wait on JDBC.
+     */
+    private void persistAsync(String ticketName, String status) {
+        if (persistenceExecutor.isShutdown()) {
+            Logging.log("Dropped ticket update after shutdown: " + ticketName + " | " + status);
+            return;
+        }
+        try {
+            persistenceExecutor.execute(() -> dbHandler.saveTicket(ticketName, status));
+        } catch (RejectedExecutionException e) {
+            Logging.log("Dropped ticket update after shutdown: " + ticketName + " | " + status);
+        }
+    }
+
     private void stopAllThreads() {
         try {
             // Shut down vendor and customer executors
@@ -109,5 +226,20 @@ public class TicketingSystemManager {
         }
     }
 
+    /**
+     * Stops accepting API ticket updates and waits for the queued ones to reach the database.
+     */
+    private void drainPersistence() {
+        persistenceExecutor.shutdown(); // Let queued ticket updates finish
+        try {
+            if (!persistenceExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.err.println("Pending ticket updates did not complete in time.");
+            }
+        } catch (InterruptedException e) {
+            System.err.println("Error while saving pending ticket updates: " + e.getMessage());
+            Thread.currentThread().interrupt(); // Restore interrupt status
+        }
+    }
+
 
 }
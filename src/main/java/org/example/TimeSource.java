@@ -0,0 +1,31 @@
+package org.example;
+
+
+/**
+ * TimeSource abstracts the clock used by vendors and customers, so the same actor logic
+ * can run against wall-clock time or a simulated timeline.
+ */
+public interface TimeSource {
+
+    /**
+     * Returns the current time in milliseconds.
+     *
+     * @return The current time, in milliseconds since the epoch (or since the start of a simulation).
+     */
+    long currentTimeMillis();
+
+    /**
+     * Returns the current time in nanoseconds, for timestamps that need sub-millisecond resolution.
+     *
+     * @return The current time, in nanoseconds on the same timeline as currentTimeMillis().
+     */
+    long currentTimeNanos();
+
+    /**
+     * Waits for the given number of milliseconds.
+     *
+     * @param millis The time to wait, in milliseconds.
+     * @throws InterruptedException If the waiting thread is interrupted.
+     */
+    void sleep(long millis) throws InterruptedException;
+}
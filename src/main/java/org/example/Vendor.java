@@ -1,24 +1,34 @@
 package org.example;
 
 
-public class Vendor implements Runnable {
+public class Vendor implements Runnable, SimulatedActor {
     private final TicketPool ticketPool;          // The shared ticket pool
     private final int ticketsPerRelease;          // Number of tickets the vendor releases at a time
     private final int releaseInterval;            // Time interval (ms) between ticket releases
     private final int maxCapacity;                // Maximum ticket capacity of the pool
     private final String vendorName;              // Name of the vendor
-    private final DatabaseHandler dbHandler;      // Database handler to save ticket data
+    private final DatabaseHandler dbHandler;      // Database handler to save ticket data, null to skip persistence
+    private final TimeSource timeSource;          // Clock used for ticket names and sleeping
 
     /**
      * Constructor to initialize a Vendor object.
      */
     public Vendor(TicketPool ticketPool, int ticketsPerRelease, int releaseInterval, int maxCapacity, String vendorName, DatabaseHandler dbHandler) {
+        this(ticketPool, ticketsPerRelease, releaseInterval, maxCapacity, vendorName, dbHandler, SystemTimeSource.INSTANCE);
+    }
+
+    /**
+     * Constructor to initialize a Vendor object running against the given clock.
+     */
+    public Vendor(TicketPool ticketPool, int ticketsPerRelease, int releaseInterval, int maxCapacity, String vendorName,
+                  DatabaseHandler dbHandler, TimeSource timeSource) {
         this.ticketPool = ticketPool;
         this.ticketsPerRelease = ticketsPerRelease;
         this.releaseInterval = releaseInterval;
         this.maxCapacity = maxCapacity;
         this.vendorName = vendorName;
         this.dbHandler = dbHandler;
+        this.timeSource = timeSource;
     }
 
     public TicketPool getTicketPool() {
@@ -53,21 +63,7 @@ public class Vendor implements Runnable {
         try {
             // Vendor keeps adding tickets while the thread is not interrupted
             while (!Thread.currentThread().isInterrupted()) {
-                for (int i = 0; i < ticketsPerRelease; i++) {
-                    // Check if the ticket pool is not full
-                    if (ticketPool.getTicketCount() < maxCapacity) {
-                        String ticketName = "Ticket-" + System.currentTimeMillis(); // Generate a unique ticket name
-                        if (ticketPool.addTicket(ticketName)) {  // Try to add the ticket to the pool
-                            dbHandler.saveTicket(ticketName, "available"); // Save the ticket status in the database
-                            System.out.println(vendorName + " added a ticket: " + ticketName); // Log the action
-                        }
-                    } else {
-                        // If the pool is full, stop adding more tickets for now
-                        System.out.println(vendorName + ": Ticket pool is full!");
-                        break;
-                    }
-                }
-                Thread.sleep(releaseInterval);  // Wait for the specified interval before releasing more tickets
+                timeSource.sleep(step());  // Wait for the specified interval before releasing more tickets
             }
         } catch (InterruptedException e) {
             // If the thread is interrupted, restore the interrupt status and stop gracefully
@@ -78,4 +74,36 @@ public class Vendor implements Runnable {
             e.printStackTrace(); // Print the stack trace for debugging purposes
         }
     }
+
+    /**
+     * Releases one batch of tickets into the pool.
+     *
+     * @return The release interval, in milliseconds.
+     */
+    @Override
+    public long step() {
+        boolean verbose = ticketPool.isVerbose();
+        for (int i = 0; i < ticketsPerRelease; i++) {
+            // Check if the ticket pool is not full
+            if (ticketPool.getTicketCount() < maxCapacity) {
+                // Timestamp plus the pool's sequence number, unique even within one millisecond
+                String ticketName = "Ticket-" + timeSource.currentTimeMillis() + "-" + ticketPool.nextTicketNumber();
+                if (ticketPool.addTicket(ticketName, vendorName)) {  // Try to add the ticket to the pool
+                    if (dbHandler != null) {
+                        dbHandler.saveTicket(ticketName, "available"); // Save the ticket status in the database
+                    }
+                    if (verbose) {
+                        System.out.println(vendorName + " added a ticket: " + ticketName); // Log the action
+                    }
+                }
+            } else {
+                // If the pool is full, stop adding more tickets for now
+                if (verbose) {
+                    System.out.println(vendorName + ": Ticket pool is full!");
+                }
+                break;
+            }
+        }
+        return releaseInterval;
+    }
 }
@@ -0,0 +1,47 @@
+package org.example;
+
+
+/**
+ * VirtualTimeSource is a simulated clock that only moves when told to.
+ * Sleeping advances the virtual time instantly instead of blocking the thread.
+ * It is not thread-safe: each simulation owns its own instance.
+ */
+public class VirtualTimeSource implements TimeSource {
+    private long now; // Current virtual time in milliseconds
+
+    /**
+     * Constructor to initialize the virtual clock at a given start time.
+     *
+     * @param startMillis The initial virtual time in milliseconds.
+     */
+    public VirtualTimeSource(long startMillis) {
+        this.now = startMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return now;
+    }
+
+    @Override
+    public long currentTimeNanos() {
+        return now * 1_000_000L;
+    }
+
+    @Override
+    public void sleep(long millis) {
+        now += millis;
+    }
+
+    /**
+     * Moves the clock forward to the given time. The clock never moves backwards.
+     *
+     * @param millis The virtual time to advance to.
+     */
+    public void advanceTo(long millis) {
+        if (millis < now) {
+            throw new IllegalArgumentException("Cannot move virtual time backwards: " + millis + " < " + now);
+        }
+        now = millis;
+    }
+}